@@ -172,7 +172,148 @@ public class PlayingWithFunctionalProgramming {
             .peek(System.out::println)
             .findFirst();
     }
-    
+
+    // Example 8 : Scan (prefix) operations : like reduce, but keeps every intermediate result
+    // Arrays.parallelPrefix splits the array into chunks on the common ForkJoinPool, so the operator must be associative
+    // Inclusive scan : result[i] = values[0] op ... op values[i]
+    public static int[] inclusiveScan(int[] values, IntBinaryOperator operator) {
+        int[] result = values.clone();
+        Arrays.parallelPrefix(result, operator);
+        return result;
+    }
+
+    // Exclusive scan : result[0] = identity, result[i] = identity op values[0] op ... op values[i - 1]
+    public static int[] exclusiveScan(int[] values, int identity, IntBinaryOperator operator) {
+        int[] result = new int[values.length];
+        if (result.length == 0) {
+            return result;
+        }
+        result[0] = identity;
+        System.arraycopy(values, 0, result, 1, values.length - 1);
+        Arrays.parallelPrefix(result, operator);
+        return result;
+    }
+
+    public static long[] inclusiveScan(long[] values, LongBinaryOperator operator) {
+        long[] result = values.clone();
+        Arrays.parallelPrefix(result, operator);
+        return result;
+    }
+
+    public static long[] exclusiveScan(long[] values, long identity, LongBinaryOperator operator) {
+        long[] result = new long[values.length];
+        if (result.length == 0) {
+            return result;
+        }
+        result[0] = identity;
+        System.arraycopy(values, 0, result, 1, values.length - 1);
+        Arrays.parallelPrefix(result, operator);
+        return result;
+    }
+
+    public static <T> List<T> inclusiveScan(List<T> values, BinaryOperator<T> operator) {
+        @SuppressWarnings("unchecked")
+        T[] result = (T[]) values.toArray();
+        Arrays.parallelPrefix(result, operator);
+        return Arrays.asList(result);
+    }
+
+    public static <T> List<T> exclusiveScan(List<T> values, T identity, BinaryOperator<T> operator) {
+        @SuppressWarnings("unchecked")
+        T[] result = (T[]) new Object[values.size()];
+        if (result.length == 0) {
+            return Arrays.asList(result);
+        }
+        result[0] = identity;
+        for (int index = 1; index < result.length; index++) {
+            result[index] = values.get(index - 1);
+        }
+        Arrays.parallelPrefix(result, operator);
+        return Arrays.asList(result);
+    }
+
+    // A scan needs every element before it can finish, so streams are collected once into an array and scanned in place
+    public static IntStream inclusiveScan(IntStream values, IntBinaryOperator operator) {
+        int[] result = values.toArray();
+        Arrays.parallelPrefix(result, operator);
+        return Arrays.stream(result);
+    }
+
+    public static LongStream inclusiveScan(LongStream values, LongBinaryOperator operator) {
+        long[] result = values.toArray();
+        Arrays.parallelPrefix(result, operator);
+        return Arrays.stream(result);
+    }
+
+    // Scan of one int column, restarted for every group (keeps the encounter order of the courses inside a group)
+    public static <K> Map<K, int[]> inclusiveScanByGroup(List<Course> courses, Function<Course, K> classifier,
+            ToIntFunction<Course> column, IntBinaryOperator operator) {
+        return courses.stream()
+            .collect(Collectors.groupingBy(classifier, Collectors.collectingAndThen(Collectors.toList(),
+                group -> inclusiveScan(group.stream().mapToInt(column).toArray(), operator))));
+    }
+
+    public static void exampleEight(int[] numbers) {
+        // Running total of numbers
+        System.out.println("Running total: " + Arrays.toString(inclusiveScan(numbers, Integer::sum)));
+
+        // Offsets - where each number starts if they were laid out one after another
+        System.out.println("Offsets: " + Arrays.toString(exclusiveScan(numbers, 0, Integer::sum)));
+
+        // Running maximum
+        System.out.println("Running maximum: " + Arrays.toString(inclusiveScan(numbers, Math::max)));
+
+        System.out.println("-----");
+
+        // Every factorial from 1! to 20! - the scan version of the reduce in exampleFour
+        System.out.println("Factorials up to 20: " + Arrays.toString(
+            inclusiveScan(LongStream.rangeClosed(1, 20), (a, b) -> a * b).toArray()));
+
+        // Same with BigInteger for factorials which do not fit into a long
+        System.out.println("Factorials up to 25: " + inclusiveScan(LongStream.rangeClosed(1, 25)
+            .mapToObj(BigInteger::valueOf).collect(Collectors.toList()), BigInteger::multiply));
+
+        System.out.println("-----");
+
+        List<Course> courses = List.of(
+            new Course("Spring", "Framework", 98, 20000),
+            new Course("Spring Boot", "Framework", 98, 20000),
+            new Course("API", "Framework", 94, 10000),
+            new Course("Micorservices", "Micorservices", 96, 25000),
+            new Course("AWS", "Cloud", 91, 2000),
+            new Course("Azure", "Cloud", 91, 1000),
+            new Course("GCP", "Cloud", 90, 400)
+        );
+
+        // Cumulative distribution of students (in percent) for courses sorted by number of students
+        long[] students = courses.stream()
+            .mapToLong(Course::getNumberOfStudents)
+            .sorted()
+            .toArray();
+        long[] runningStudents = inclusiveScan(students, Long::sum);
+        long totalStudents = runningStudents[runningStudents.length - 1];
+        System.out.println("Cumulative distribution of students (%): " + Arrays.toString(
+            Arrays.stream(runningStudents).map(count -> count * 100 / totalStudents).toArray()));
+
+        // Dense rank of each review score (1 for the best) - running count of the distinct scores seen so far
+        int[] reviewScores = courses.stream()
+            .mapToInt(Course::getReviewScore)
+            .map(score -> -score)
+            .sorted()
+            .map(score -> -score)
+            .toArray();
+        int[] newScore = IntStream.range(0, reviewScores.length)
+            .map(index -> index > 0 && reviewScores[index] == reviewScores[index - 1] ? 0 : 1)
+            .toArray();
+        System.out.println("Review scores: " + Arrays.toString(reviewScores));
+        System.out.println("Dense ranks: " + Arrays.toString(inclusiveScan(newScore, Integer::sum)));
+
+        // Running total of students restarted in every category
+        inclusiveScanByGroup(courses, Course::getCategory, Course::getNumberOfStudents, Integer::sum)
+            .forEach((category, runningTotal) ->
+                System.out.println("Running students in " + category + ": " + Arrays.toString(runningTotal)));
+    }
+
     public static void main(String args[]) {
         List<Integer> numbers = List.of(12, 9, 13, 4, 6, 2, 4, 12, 15);
         int[] numbersArray = {12, 9, 13, 4, 6, 2, 4, 12, 15};
@@ -187,5 +328,6 @@ public class PlayingWithFunctionalProgramming {
         // exampleFive(courses);
         // exampleSix()
         exampleSeven(courses);
+        // exampleEight(numbersArray);
     }
 }
\ No newline at end of file